@@ -6,6 +6,7 @@ import com.example.currencyconversionservice.service.ApiKeyGenerator;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.web.client.RestTemplate;
 
@@ -22,6 +23,7 @@ public class CurrencyConversionServiceApplication {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "app.init-database", havingValue = "true", matchIfMissing = true)
     CommandLineRunner initDatabase(UserRepository userRepository) {
         return args -> {
             if (userRepository.count() == 0) {
@@ -2,6 +2,8 @@ package com.example.currencyconversionservice.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 
@@ -13,8 +15,10 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable()) // Disable CSRF
                 .authorizeHttpRequests(auth -> auth
-                        .anyRequest().permitAll() // Allow all requests
-                );
+                        .requestMatchers(HttpMethod.POST, "/api/register/bulk").hasRole("PROVISIONER") // Partner onboarding only
+                        .anyRequest().permitAll() // Allow all other requests
+                )
+                .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
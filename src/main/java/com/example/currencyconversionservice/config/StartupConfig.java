@@ -0,0 +1,30 @@
+package com.example.currencyconversionservice.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.context.AbstractSecurityWebApplicationInitializer;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With {@code spring.main.lazy-initialization} on, keeps the request path eager so a pod that
+     * reports ready does not build it on its first requests. Controllers pull in the services,
+     * repositories and templates they use; the security chain is only looked up on first request
+     * otherwise. What stays lazy is what no request path reaches (mostly auto-configuration
+     * builders, reactive Redis templates and JDBC helpers).
+     */
+    @Bean
+    static LazyInitializationExcludeFilter requestPathExcludeFilter() {
+        return (beanName, beanDefinition, beanType) ->
+                AnnotatedElementUtils.hasAnnotation(beanType, Controller.class)
+                        || AnnotatedElementUtils.hasAnnotation(beanType, ControllerAdvice.class)
+                        || SecurityFilterChain.class.isAssignableFrom(beanType)
+                        || AbstractSecurityWebApplicationInitializer.DEFAULT_FILTER_NAME.equals(beanName);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.currencyconversionservice.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+@JsonSerialize(using = ConversionResponseSerializer.class)
+public record ConversionResponse(double convertedAmount) {
+}
@@ -0,0 +1,29 @@
+package com.example.currencyconversionservice.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link ConversionResponse} straight to the generator with a pre-encoded field name,
+ * skipping bean introspection. Works for both the JSON and CBOR converters.
+ */
+public class ConversionResponseSerializer extends StdSerializer<ConversionResponse> {
+    private static final SerializableString CONVERTED_AMOUNT = new SerializedString("convertedAmount");
+
+    public ConversionResponseSerializer() {
+        super(ConversionResponse.class);
+    }
+
+    @Override
+    public void serialize(ConversionResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value, 1);
+        gen.writeFieldName(CONVERTED_AMOUNT);
+        gen.writeNumber(value.convertedAmount());
+        gen.writeEndObject();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Base type for expected request rejections (bad key, bad input, rate limits).
+ * These are thrown on every rejected request, so they skip stack trace capture
+ * and carry a prebuilt response that {@link GlobalExceptionHandler} returns as is.
+ */
+public abstract class ApiException extends RuntimeException {
+    private final ResponseEntity<String> response;
+
+    protected ApiException(HttpStatus status, String message) {
+        super(message, null, false, false);
+        this.response = GlobalExceptionHandler.textResponse(status, message);
+    }
+
+    public HttpStatus getStatus() {
+        return (HttpStatus) response.getStatusCode();
+    }
+
+    public ResponseEntity<String> getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class DuplicateUserException extends ApiException {
+    public static final DuplicateUserException INSTANCE = new DuplicateUserException();
+
+    private DuplicateUserException() {
+        super(HttpStatus.BAD_REQUEST, "Username already exists.");
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.currencyconversionservice.exception;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -8,13 +9,23 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
+    @ExceptionHandler(ApiException.class)
+    public ResponseEntity<String> handleApiException(ApiException ex) {
+        return ex.getResponse();
+    }
+
     @ExceptionHandler(MissingRequestHeaderException.class)
     public ResponseEntity<String> handleMissingRequestHeaderException(MissingRequestHeaderException ex) {
-        return new ResponseEntity<>("Missing request header: " + ex.getHeaderName(), HttpStatus.BAD_REQUEST);
+        return textResponse(HttpStatus.BAD_REQUEST, "Missing request header: " + ex.getHeaderName());
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<String> handleException(Exception ex) {
-        return new ResponseEntity<>(ex.getMessage(), HttpStatus.BAD_REQUEST);
+        return textResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    // Error bodies are plain text whatever the client accepts, so they are never labelled as JSON or CBOR.
+    static ResponseEntity<String> textResponse(HttpStatus status, String body) {
+        return ResponseEntity.status(status).contentType(MediaType.TEXT_PLAIN).body(body);
     }
 }
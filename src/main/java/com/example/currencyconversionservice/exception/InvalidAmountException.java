@@ -0,0 +1,11 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class InvalidAmountException extends ApiException {
+    public static final InvalidAmountException INSTANCE = new InvalidAmountException();
+
+    private InvalidAmountException() {
+        super(HttpStatus.BAD_REQUEST, "Amount must be a positive number.");
+    }
+}
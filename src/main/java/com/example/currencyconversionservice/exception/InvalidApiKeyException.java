@@ -0,0 +1,11 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class InvalidApiKeyException extends ApiException {
+    public static final InvalidApiKeyException INSTANCE = new InvalidApiKeyException();
+
+    private InvalidApiKeyException() {
+        super(HttpStatus.UNAUTHORIZED, "Invalid API Key");
+    }
+}
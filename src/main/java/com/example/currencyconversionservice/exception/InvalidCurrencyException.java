@@ -0,0 +1,11 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class InvalidCurrencyException extends ApiException {
+    public static final InvalidCurrencyException INSTANCE = new InvalidCurrencyException();
+
+    private InvalidCurrencyException() {
+        super(HttpStatus.BAD_REQUEST, "Invalid currency code.");
+    }
+}
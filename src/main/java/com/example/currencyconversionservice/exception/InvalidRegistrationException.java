@@ -0,0 +1,14 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class InvalidRegistrationException extends ApiException {
+    public static final InvalidRegistrationException INVALID_NAME =
+            new InvalidRegistrationException("Name must be between 1 and 255 characters and not blank.");
+    public static final InvalidRegistrationException TOO_MANY_NAMES =
+            new InvalidRegistrationException("At most 1000 names can be registered per request.");
+
+    private InvalidRegistrationException(String message) {
+        super(HttpStatus.BAD_REQUEST, message);
+    }
+}
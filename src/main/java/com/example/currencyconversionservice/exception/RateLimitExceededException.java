@@ -0,0 +1,14 @@
+package com.example.currencyconversionservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+public final class RateLimitExceededException extends ApiException {
+    public static final RateLimitExceededException TOO_FREQUENT =
+            new RateLimitExceededException("You must wait at least 2 minutes before making another request.");
+    public static final RateLimitExceededException DAILY_LIMIT =
+            new RateLimitExceededException("Daily request limit exceeded.");
+
+    private RateLimitExceededException(String message) {
+        super(HttpStatus.TOO_MANY_REQUESTS, message);
+    }
+}
@@ -8,8 +8,10 @@ import lombok.*;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = @UniqueConstraint(name = User.NAME_CONSTRAINT, columnNames = "name"))
 public class User {
+    public static final String NAME_CONSTRAINT = "users_name_key";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
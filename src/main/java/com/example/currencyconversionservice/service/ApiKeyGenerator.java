@@ -1,9 +1,32 @@
 package com.example.currencyconversionservice.service;
 
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.UUID;
 
 public class ApiKeyGenerator {
+    // UUID.randomUUID() draws from one shared SecureRandom (and NativePRNG is globally locked on Linux),
+    // so bulk provisioning threads would serialize on it. Each thread gets its own DRBG instead.
+    private static final ThreadLocal<SecureRandom> RANDOM = ThreadLocal.withInitial(() -> {
+        try {
+            return SecureRandom.getInstance("DRBG");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("DRBG SecureRandom is not available", e);
+        }
+    });
+
     public static String generateApiKey() {
-        return UUID.randomUUID().toString();
+        byte[] bytes = new byte[16];
+        RANDOM.get().nextBytes(bytes);
+        bytes[6] = (byte) ((bytes[6] & 0x0f) | 0x40); // version 4
+        bytes[8] = (byte) ((bytes[8] & 0x3f) | 0x80); // IETF variant
+
+        long msb = 0;
+        long lsb = 0;
+        for (int i = 0; i < 8; i++) {
+            msb = (msb << 8) | (bytes[i] & 0xff);
+            lsb = (lsb << 8) | (bytes[i + 8] & 0xff);
+        }
+        return new UUID(msb, lsb).toString();
     }
 }
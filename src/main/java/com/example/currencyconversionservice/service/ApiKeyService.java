@@ -1,21 +1,169 @@
 package com.example.currencyconversionservice.service;
 
+import com.example.currencyconversionservice.exception.DuplicateUserException;
+import com.example.currencyconversionservice.exception.InvalidRegistrationException;
 import com.example.currencyconversionservice.model.User;
 import com.example.currencyconversionservice.respository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class ApiKeyService {
+    static final int BATCH_SIZE = 500;
+    static final int MAX_BULK_NAMES = 1000;
+    private static final int MAX_NAME_LENGTH = 255;
+
+    // Duplicate names are skipped by the unique constraint rather than a pre-check query.
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (api_key, name) VALUES (?, ?) ON CONFLICT ON CONSTRAINT " + User.NAME_CONSTRAINT + " DO NOTHING";
+
+    // Validated keys are cached with a TTL so a revoked key stops passing within that window.
+    static final String API_KEY_CACHE_PREFIX = "apiKey:";
+    static final long API_KEY_CACHE_TTL_MINUTES = 30;
+    private static final byte[] CACHED_VALUE = "1".getBytes(StandardCharsets.UTF_8);
+
     private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
 
-    public ApiKeyService(UserRepository userRepository) {
+    public ApiKeyService(UserRepository userRepository, JdbcTemplate jdbcTemplate, StringRedisTemplate redisTemplate) {
         this.userRepository = userRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
     }
 
+    // The database stays the source of truth: if Redis is unavailable, keys are checked there directly.
     public boolean isValidApiKey(String apiKey) {
+        String cacheKey = API_KEY_CACHE_PREFIX + apiKey;
+        try {
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey))) {
+                return true;
+            }
+        } catch (DataAccessException e) {
+            return userRepository.findByApiKey(apiKey).isPresent();
+        }
         Optional<User> user = userRepository.findByApiKey(apiKey);
+        if (user.isPresent()) {
+            try {
+                redisTemplate.opsForValue().set(cacheKey, "1", API_KEY_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+            } catch (DataAccessException e) {
+                // The key is valid; it just won't be cached this time.
+            }
+        }
         return user.isPresent();
     }
+
+    /**
+     * Creates a user with a fresh API key. A taken name is reported by the unique constraint
+     * on {@code users.name}; any other integrity violation is passed on unchanged.
+     */
+    @Transactional
+    public String registerUser(String name) {
+        validateName(name);
+        String apiKey = ApiKeyGenerator.generateApiKey();
+        try {
+            userRepository.saveAndFlush(new User(null, apiKey, name));
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, User.NAME_CONSTRAINT)) {
+                throw DuplicateUserException.INSTANCE;
+            }
+            throw e;
+        }
+        cacheApiKeysAfterCommit(List.of(apiKey));
+        return apiKey;
+    }
+
+    /**
+     * Creates a user with a fresh API key for each name using batched inserts.
+     * Names that already exist (or repeat within the request) are left out of the result.
+     */
+    @Transactional
+    public Map<String, String> registerUsers(List<String> names) {
+        if (names.size() > MAX_BULK_NAMES) {
+            throw InvalidRegistrationException.TOO_MANY_NAMES;
+        }
+        names.forEach(ApiKeyService::validateName);
+
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (String name : names) {
+            rows.add(new Object[]{ApiKeyGenerator.generateApiKey(), name});
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            ps.setString(1, (String) row[0]);
+            ps.setString(2, (String) row[1]);
+        });
+
+        Map<String, String> created = new LinkedHashMap<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                Object[] row = rows.get(index++);
+                if (count > 0) {
+                    created.put((String) row[1], (String) row[0]);
+                }
+            }
+        }
+        cacheApiKeysAfterCommit(List.copyOf(created.values()));
+        return created;
+    }
+
+    // Only keys that were actually committed may pass isValidApiKey without a lookup.
+    private void cacheApiKeysAfterCommit(List<String> apiKeys) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheApiKeys(apiKeys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    cacheApiKeys(apiKeys);
+                } catch (DataAccessException e) {
+                    // The keys are stored; a missed cache write only costs a lookup on first use.
+                }
+            }
+        });
+    }
+
+    private void cacheApiKeys(List<String> apiKeys) {
+        if (apiKeys.isEmpty()) {
+            return;
+        }
+        long ttlSeconds = TimeUnit.MINUTES.toSeconds(API_KEY_CACHE_TTL_MINUTES);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String apiKey : apiKeys) {
+                byte[] cacheKey = (API_KEY_CACHE_PREFIX + apiKey).getBytes(StandardCharsets.UTF_8);
+                connection.stringCommands().setEx(cacheKey, ttlSeconds, CACHED_VALUE);
+            }
+            return null;
+        });
+    }
+
+    private static void validateName(String name) {
+        if (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH) {
+            throw InvalidRegistrationException.INVALID_NAME;
+        }
+    }
+
+    private static boolean violates(DataIntegrityViolationException e, String constraintName) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && constraintName.equalsIgnoreCase(violation.getConstraintName());
+    }
 }
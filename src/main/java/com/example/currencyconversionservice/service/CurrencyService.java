@@ -1,5 +1,7 @@
 package com.example.currencyconversionservice.service;
 
+import com.example.currencyconversionservice.exception.InvalidApiKeyException;
+import com.example.currencyconversionservice.exception.RateLimitExceededException;
 import com.example.currencyconversionservice.model.RequestLog;
 import com.example.currencyconversionservice.model.User;
 import com.example.currencyconversionservice.respository.RequestLogRepository;
@@ -45,7 +47,7 @@ public class CurrencyService {
     public Double convertCurrency(String apiKey, String from, String to, Double amount) {
         Optional<User> user = userRepository.findByApiKey(apiKey);
         if (user.isEmpty()) {
-            throw new RuntimeException("Invalid API Key");
+            throw InvalidApiKeyException.INSTANCE;
         }
 
         enforceRequestLimits(apiKey);
@@ -97,7 +99,7 @@ public class CurrencyService {
         LocalDateTime twoMinutesAgo = LocalDateTime.now().minusMinutes(2);
         List<RequestLog> recentRequests = logRepository.findByApiKeyAndTimestampAfter(apiKey, twoMinutesAgo);
         if (!recentRequests.isEmpty()) {
-            throw new RuntimeException("You must wait at least 2 minutes before making another request.");
+            throw RateLimitExceededException.TOO_FREQUENT;
         }
 
         DayOfWeek today = LocalDateTime.now().getDayOfWeek();
@@ -107,7 +109,7 @@ public class CurrencyService {
         List<RequestLog> todayRequests = logRepository.findByApiKeyAndTimestampAfter(apiKey, startOfDay);
 
         if (todayRequests.size() >= requestLimit) {
-            throw new RuntimeException("Daily request limit exceeded.");
+            throw RateLimitExceededException.DAILY_LIMIT;
         }
     }
 
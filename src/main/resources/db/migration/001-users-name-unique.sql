@@ -0,0 +1,19 @@
+-- Adds the users_name_key unique constraint that registration relies on.
+-- Run once against databases created before it existed; safe to re-run.
+BEGIN;
+
+LOCK TABLE users IN SHARE ROW EXCLUSIVE MODE;
+
+-- Keep the oldest user for each name and suffix the others with their id.
+UPDATE users u
+SET name = u.name || '-' || u.id
+WHERE EXISTS (SELECT 1 FROM users o WHERE o.name = u.name AND o.id < u.id);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'users_name_key' AND conrelid = 'users'::regclass) THEN
+        ALTER TABLE users ADD CONSTRAINT users_name_key UNIQUE (name);
+    END IF;
+END $$;
+
+COMMIT;
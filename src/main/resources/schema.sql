@@ -1,7 +1,8 @@
 CREATE TABLE users (
     id SERIAL PRIMARY KEY,
     api_key VARCHAR(255) UNIQUE NOT NULL,
-    name VARCHAR(255) NOT NULL
+    name VARCHAR(255) NOT NULL,
+    CONSTRAINT users_name_key UNIQUE (name)
 );
 
 CREATE TABLE request_logs (
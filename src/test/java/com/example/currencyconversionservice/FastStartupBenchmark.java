@@ -0,0 +1,43 @@
+package com.example.currencyconversionservice;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boots the {@code fast-startup} profile without PostgreSQL or Redis and reports the time until the
+ * context is ready. The time is only checked when a budget is given, e.g.
+ * {@code mvn -Pbenchmark test -Dbenchmark.startup.budget-ms=1000}.
+ */
+class FastStartupBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FastStartupBenchmark.class);
+    private static final Long BUDGET_MILLIS = Long.getLong("benchmark.startup.budget-ms");
+
+    @Test
+    void fastStartupProfile_ShouldBeReadyWithinBudget() {
+        long start = System.nanoTime();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(CurrencyConversionServiceApplication.class)
+                .profiles("fast-startup")
+                .run("--server.port=0")) {
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+            assertFalse(context.containsBean("initDatabase"));
+            assertTrue(beanFactory.containsSingleton("currencyController"), "request path should be created at startup");
+            assertTrue(beanFactory.containsSingleton("springSecurityFilterChain"), "security chain should be created at startup");
+            log.info("fast-startup context ready in {} ms", elapsedMillis);
+            if (BUDGET_MILLIS != null) {
+                assertTrue(elapsedMillis <= BUDGET_MILLIS,
+                        "fast-startup context took " + elapsedMillis + " ms, budget is " + BUDGET_MILLIS + " ms");
+            }
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.example.currencyconversionservice.controller;
 
+import com.example.currencyconversionservice.dto.ConversionResponse;
+import com.example.currencyconversionservice.exception.ApiException;
+import com.example.currencyconversionservice.exception.DuplicateUserException;
 import com.example.currencyconversionservice.model.RequestLog;
-import com.example.currencyconversionservice.model.User;
 import com.example.currencyconversionservice.respository.RequestLogRepository;
-import com.example.currencyconversionservice.respository.UserRepository;
 import com.example.currencyconversionservice.service.ApiKeyService;
 import com.example.currencyconversionservice.service.CurrencyService;
 import org.junit.jupiter.api.BeforeEach;
@@ -12,11 +13,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -29,9 +28,6 @@ class CurrencyControllerTest {
     @Mock
     private ApiKeyService apiKeyService;
 
-    @Mock
-    private UserRepository userRepository;
-
     @Mock
     private RequestLogRepository requestLogRepository;
 
@@ -56,9 +52,9 @@ class CurrencyControllerTest {
         when(currencyService.isValidCurrency(to)).thenReturn(true);
         when(currencyService.convertCurrency(apiKey, from, to, amount)).thenReturn(convertedAmount);
 
-        Map<String, Object> response = currencyController.convertCurrency(apiKey, from, to, amount);
+        ConversionResponse response = currencyController.convertCurrency(apiKey, from, to, amount);
 
-        assertEquals(90.0, response.get("convertedAmount"));
+        assertEquals(90.0, response.convertedAmount());
         verify(apiKeyService).isValidApiKey(apiKey);
         verify(currencyService).convertCurrency(apiKey, from, to, amount);
     }
@@ -69,11 +65,11 @@ class CurrencyControllerTest {
 
         when(apiKeyService.isValidApiKey(apiKey)).thenReturn(false);
 
-        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+        ApiException exception = assertThrows(ApiException.class, () ->
                 currencyController.convertCurrency(apiKey, "USD", "EUR", 100.0)
         );
 
-        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
     }
 
     @Test
@@ -82,11 +78,11 @@ class CurrencyControllerTest {
 
         when(apiKeyService.isValidApiKey(apiKey)).thenReturn(true);
 
-        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+        ApiException exception = assertThrows(ApiException.class, () ->
                 currencyController.convertCurrency(apiKey, "USD", "EUR", -10.0)
         );
 
-        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
     }
 
     @Test
@@ -98,11 +94,11 @@ class CurrencyControllerTest {
         when(apiKeyService.isValidApiKey(apiKey)).thenReturn(true);
         when(currencyService.isValidCurrency(from)).thenReturn(false);
 
-        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+        ApiException exception = assertThrows(ApiException.class, () ->
                 currencyController.convertCurrency(apiKey, from, to, 100.0)
         );
 
-        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
     }
 
     @Test
@@ -126,36 +122,44 @@ class CurrencyControllerTest {
 
         when(apiKeyService.isValidApiKey(apiKey)).thenReturn(false);
 
-        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+        ApiException exception = assertThrows(ApiException.class, () ->
                 currencyController.getConversionLogs(apiKey)
         );
 
-        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, exception.getStatus());
     }
 
     @Test
     void registerUser_NewUser_ShouldReturnApiKey() {
         String name = "John Doe";
-        String generatedApiKey = "new-api-key";
 
-        when(userRepository.findByName(name)).thenReturn(Optional.empty());
+        when(apiKeyService.registerUser(name)).thenReturn("new-api-key");
 
         Map<String, String> response = currencyController.registerUser(name);
 
-        assertNotNull(response.get("apiKey"));
-        verify(userRepository).save(any(User.class));
+        assertEquals("new-api-key", response.get("apiKey"));
     }
 
     @Test
     void registerUser_ExistingUser_ShouldThrowBadRequest() {
         String name = "John Doe";
 
-        when(userRepository.findByName(name)).thenReturn(Optional.of(new User(1L, "existing-api-key", name)));
+        when(apiKeyService.registerUser(name)).thenThrow(DuplicateUserException.INSTANCE);
 
-        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () ->
+        ApiException exception = assertThrows(ApiException.class, () ->
                 currencyController.registerUser(name)
         );
 
-        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, exception.getStatus());
+    }
+
+    @Test
+    void registerUsers_ShouldDelegateToApiKeyService() {
+        List<String> names = List.of("Alice", "Bob");
+        Map<String, String> created = Map.of("Alice", "key-1", "Bob", "key-2");
+
+        when(apiKeyService.registerUsers(names)).thenReturn(created);
+
+        assertEquals(created, currencyController.registerUsers(names));
     }
 }
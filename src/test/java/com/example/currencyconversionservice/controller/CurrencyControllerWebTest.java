@@ -0,0 +1,131 @@
+package com.example.currencyconversionservice.controller;
+
+import com.example.currencyconversionservice.config.SecurityConfig;
+import com.example.currencyconversionservice.respository.RequestLogRepository;
+import com.example.currencyconversionservice.service.ApiKeyService;
+import com.example.currencyconversionservice.service.CurrencyService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = CurrencyController.class, properties = "app.init-database=false")
+@Import(SecurityConfig.class)
+class CurrencyControllerWebTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CurrencyService currencyService;
+
+    @MockitoBean
+    private ApiKeyService apiKeyService;
+
+    @MockitoBean
+    private RequestLogRepository requestLogRepository;
+
+    @BeforeEach
+    void setUp() {
+        when(apiKeyService.isValidApiKey("valid-api-key")).thenReturn(true);
+        when(currencyService.isValidCurrency(anyString())).thenReturn(true);
+        when(currencyService.convertCurrency("valid-api-key", "USD", "EUR", 100.0)).thenReturn(90.5);
+    }
+
+    @Test
+    void convertCurrency_NoAcceptHeader_ShouldDefaultToJson() throws Exception {
+        mockMvc.perform(get("/api/convert").header("X-API-KEY", "valid-api-key")
+                        .param("from", "USD").param("to", "EUR").param("amount", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"convertedAmount\":90.5}", true));
+    }
+
+    @Test
+    void convertCurrency_AcceptJson_ShouldReturnJson() throws Exception {
+        mockMvc.perform(get("/api/convert").header("X-API-KEY", "valid-api-key").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "USD").param("to", "EUR").param("amount", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json("{\"convertedAmount\":90.5}", true));
+    }
+
+    @Test
+    void convertCurrency_AcceptCbor_ShouldReturnCbor() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/convert").header("X-API-KEY", "valid-api-key").accept(MediaType.APPLICATION_CBOR)
+                        .param("from", "USD").param("to", "EUR").param("amount", "100"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode node = new CBORMapper().readTree(body);
+        assertEquals(1, node.size());
+        assertEquals(90.5, node.get("convertedAmount").doubleValue());
+    }
+
+    @Test
+    void convertCurrency_RejectedWithAcceptCbor_ShouldReturnPlainTextError() throws Exception {
+        mockMvc.perform(get("/api/convert").header("X-API-KEY", "invalid-api-key").accept(MediaType.APPLICATION_CBOR)
+                        .param("from", "USD").param("to", "EUR").param("amount", "100"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Invalid API Key"));
+    }
+
+    @Test
+    void convertCurrency_RejectedWithAcceptJson_ShouldReturnPlainTextError() throws Exception {
+        mockMvc.perform(get("/api/convert").header("X-API-KEY", "invalid-api-key").accept(MediaType.APPLICATION_JSON)
+                        .param("from", "USD").param("to", "EUR").param("amount", "100"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Invalid API Key"));
+    }
+
+    @Test
+    void bulkRegister_Anonymous_ShouldBeUnauthorized() throws Exception {
+        mockMvc.perform(post("/api/register/bulk").contentType(MediaType.APPLICATION_JSON).content("[\"Alice\"]"))
+                .andExpect(status().isUnauthorized());
+
+        verifyNoInteractions(apiKeyService);
+    }
+
+    @Test
+    void bulkRegister_WithoutProvisionerRole_ShouldBeForbidden() throws Exception {
+        mockMvc.perform(post("/api/register/bulk").with(user("partner"))
+                        .contentType(MediaType.APPLICATION_JSON).content("[\"Alice\"]"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void bulkRegister_AsProvisioner_ShouldBeAllowed() throws Exception {
+        when(apiKeyService.registerUsers(List.of("Alice"))).thenReturn(Map.of("Alice", "key-1"));
+
+        mockMvc.perform(post("/api/register/bulk").with(user("provisioner").roles("PROVISIONER"))
+                        .contentType(MediaType.APPLICATION_JSON).content("[\"Alice\"]"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void register_Anonymous_ShouldBeAllowed() throws Exception {
+        when(apiKeyService.registerUser("Alice")).thenReturn("key-1");
+
+        mockMvc.perform(post("/api/register").param("name", "Alice"))
+                .andExpect(status().isOk());
+    }
+}
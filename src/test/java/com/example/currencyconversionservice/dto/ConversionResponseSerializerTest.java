@@ -0,0 +1,29 @@
+package com.example.currencyconversionservice.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConversionResponseSerializerTest {
+
+    @Test
+    void serialize_Json_ShouldWriteConvertedAmount() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(new ConversionResponse(90.5));
+
+        assertEquals("{\"convertedAmount\":90.5}", json);
+    }
+
+    @Test
+    void serialize_Cbor_ShouldRoundTrip() throws Exception {
+        ConversionResponse response = new ConversionResponse(90.5);
+        CBORMapper cborMapper = new CBORMapper();
+
+        byte[] cbor = cborMapper.writeValueAsBytes(response);
+        JsonNode node = cborMapper.readTree(cbor);
+
+        assertEquals(90.5, node.get("convertedAmount").doubleValue());
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.currencyconversionservice.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    void handleApiException_ShouldReturnPrebuiltResponse() {
+        ResponseEntity<String> response = handler.handleApiException(InvalidApiKeyException.INSTANCE);
+
+        assertSame(InvalidApiKeyException.INSTANCE.getResponse(), response);
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+        assertEquals("Invalid API Key", response.getBody());
+        assertEquals(MediaType.TEXT_PLAIN, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void handleApiException_RateLimit_ShouldReturnTooManyRequests() {
+        ResponseEntity<String> response = handler.handleApiException(RateLimitExceededException.DAILY_LIMIT);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("Daily request limit exceeded.", response.getBody());
+    }
+
+    @Test
+    void handleException_ShouldReturnPlainTextBadRequest() {
+        ResponseEntity<String> response = handler.handleException(new RuntimeException("Failed to fetch exchange rates"));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(MediaType.TEXT_PLAIN, response.getHeaders().getContentType());
+        assertEquals("Failed to fetch exchange rates", response.getBody());
+    }
+
+    @Test
+    void apiException_ShouldNotCaptureStackTrace() {
+        assertEquals(0, InvalidCurrencyException.INSTANCE.getStackTrace().length);
+        assertEquals(0, RateLimitExceededException.TOO_FREQUENT.getStackTrace().length);
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.currencyconversionservice.exception;
+
+import com.example.currencyconversionservice.controller.CurrencyController;
+import com.example.currencyconversionservice.service.ApiKeyService;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Compares rejecting a request with the shared {@link ApiException} against the two paths it replaced:
+ * a new {@link ResponseStatusException} and a new {@link RuntimeException}, both turned into a response by
+ * {@link GlobalExceptionHandler#handleException}. The {@code reject*} benchmarks throw across a non-inlined
+ * call and run the handler; the {@code mvc*} benchmarks send a rejected {@code /api/convert} request through a
+ * standalone MockMvc, where dispatch overhead dominates, and are reported without a threshold.
+ * Run with {@code mvn -Pbenchmark test}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionBenchmark {
+
+    private static final RequestBuilder INVALID_KEY_REQUEST = get("/api/convert")
+            .header("X-API-KEY", "invalid-api-key")
+            .param("from", "USD").param("to", "EUR").param("amount", "100");
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final ApiKeyService rejectingApiKeyService = new ApiKeyService(null, null, null) {
+        @Override
+        public boolean isValidApiKey(String apiKey) {
+            return false;
+        }
+    };
+
+    private MockMvc apiExceptionMvc;
+    private MockMvc responseStatusExceptionMvc;
+    private MockMvc runtimeExceptionMvc;
+
+    @Setup
+    public void setUp() {
+        apiExceptionMvc = mockMvc(new CurrencyController(null, rejectingApiKeyService, null, null, null));
+        responseStatusExceptionMvc = mockMvc(new ResponseStatusExceptionController());
+        runtimeExceptionMvc = mockMvc(new RuntimeExceptionController());
+    }
+
+    @Benchmark
+    public ResponseEntity<String> rejectApiException() {
+        try {
+            checkApiKey("invalid-api-key");
+            return null;
+        } catch (ApiException ex) {
+            return handler.handleApiException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<String> rejectResponseStatusException() {
+        try {
+            throwResponseStatusException();
+            return null;
+        } catch (ResponseStatusException ex) {
+            return handler.handleException(ex);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<String> rejectRuntimeException() {
+        try {
+            throwRuntimeException();
+            return null;
+        } catch (RuntimeException ex) {
+            return handler.handleException(ex);
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse mvcApiException() throws Exception {
+        return apiExceptionMvc.perform(INVALID_KEY_REQUEST).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse mvcResponseStatusException() throws Exception {
+        return responseStatusExceptionMvc.perform(INVALID_KEY_REQUEST).andReturn().getResponse();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse mvcRuntimeException() throws Exception {
+        return runtimeExceptionMvc.perform(INVALID_KEY_REQUEST).andReturn().getResponse();
+    }
+
+    // Kept out of line so the throw really crosses a call boundary, as it does in the controller.
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private void checkApiKey(String apiKey) {
+        if (!rejectingApiKeyService.isValidApiKey(apiKey)) {
+            throw InvalidApiKeyException.INSTANCE;
+        }
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void throwResponseStatusException() {
+        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid API Key");
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void throwRuntimeException() {
+        throw new RuntimeException("Invalid API Key");
+    }
+
+    @Test
+    void rejectionShouldCostAFractionOfThePreviousPaths() throws Exception {
+        Options options = new OptionsBuilder()
+                .include(RejectionBenchmark.class.getName() + "\\.")
+                .build();
+        Collection<RunResult> results = new Runner(options).run();
+
+        double apiException = score(results, "rejectApiException");
+        double responseStatusException = score(results, "rejectResponseStatusException");
+        double runtimeException = score(results, "rejectRuntimeException");
+
+        assertTrue(apiException < responseStatusException / 10,
+                "ApiException rejection took " + apiException + " ns/op vs " + responseStatusException + " ns/op");
+        assertTrue(apiException < runtimeException / 10,
+                "ApiException rejection took " + apiException + " ns/op vs " + runtimeException + " ns/op");
+    }
+
+    @Test
+    void allPathsShouldRejectTheRequest() throws Exception {
+        setUp();
+
+        assertEquals(HttpStatus.UNAUTHORIZED, rejectApiException().getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, rejectResponseStatusException().getStatusCode());
+        assertEquals(HttpStatus.BAD_REQUEST, rejectRuntimeException().getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED.value(), mvcApiException().getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), mvcResponseStatusException().getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST.value(), mvcRuntimeException().getStatus());
+    }
+
+    private static MockMvc mockMvc(Object controller) {
+        return MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static double score(Collection<RunResult> results, String method) {
+        return results.stream()
+                .filter(r -> r.getParams().getBenchmark().endsWith("." + method))
+                .findFirst()
+                .orElseThrow()
+                .getPrimaryResult()
+                .getScore();
+    }
+
+    // Rejections as they were thrown before the ApiException hierarchy.
+    @RestController
+    static class ResponseStatusExceptionController {
+        @GetMapping("/api/convert")
+        public Object convertCurrency(@RequestHeader("X-API-KEY") String apiKey, @RequestParam String from,
+                                      @RequestParam String to, @RequestParam Double amount) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid API Key");
+        }
+    }
+
+    @RestController
+    static class RuntimeExceptionController {
+        @GetMapping("/api/convert")
+        public Object convertCurrency(@RequestHeader("X-API-KEY") String apiKey, @RequestParam String from,
+                                      @RequestParam String to, @RequestParam Double amount) {
+            throw new RuntimeException("Invalid API Key");
+        }
+    }
+}
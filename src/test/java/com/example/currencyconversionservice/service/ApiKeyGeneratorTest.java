@@ -0,0 +1,23 @@
+package com.example.currencyconversionservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApiKeyGeneratorTest {
+
+    @Test
+    void generateApiKey_ShouldProduceVersion4Uuid() {
+        UUID uuid = UUID.fromString(ApiKeyGenerator.generateApiKey());
+
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void generateApiKey_ShouldProduceDistinctKeys() {
+        assertNotEquals(ApiKeyGenerator.generateApiKey(), ApiKeyGenerator.generateApiKey());
+    }
+}
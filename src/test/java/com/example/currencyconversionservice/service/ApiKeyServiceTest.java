@@ -0,0 +1,213 @@
+package com.example.currencyconversionservice.service;
+
+import com.example.currencyconversionservice.exception.DuplicateUserException;
+import com.example.currencyconversionservice.exception.InvalidRegistrationException;
+import com.example.currencyconversionservice.model.User;
+import com.example.currencyconversionservice.respository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+class ApiKeyServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private ApiKeyService apiKeyService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    void isValidApiKey_CachedKey_ShouldSkipLookup() {
+        when(redisTemplate.hasKey("apiKey:valid-api-key")).thenReturn(true);
+
+        assertTrue(apiKeyService.isValidApiKey("valid-api-key"));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void isValidApiKey_UncachedKey_ShouldLookUpAndCacheWithTtl() {
+        when(userRepository.findByApiKey("valid-api-key")).thenReturn(Optional.of(new User(1L, "valid-api-key", "TestUser")));
+
+        assertTrue(apiKeyService.isValidApiKey("valid-api-key"));
+
+        verify(valueOperations).set("apiKey:valid-api-key", "1", ApiKeyService.API_KEY_CACHE_TTL_MINUTES, TimeUnit.MINUTES);
+    }
+
+    @Test
+    void isValidApiKey_UnknownKey_ShouldReturnFalse() {
+        when(userRepository.findByApiKey("invalid-api-key")).thenReturn(Optional.empty());
+
+        assertFalse(apiKeyService.isValidApiKey("invalid-api-key"));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void isValidApiKey_RedisReadFails_ShouldFallBackToDatabase() {
+        when(redisTemplate.hasKey("apiKey:valid-api-key")).thenThrow(new RedisConnectionFailureException("Redis is down"));
+        when(userRepository.findByApiKey("valid-api-key")).thenReturn(Optional.of(new User(1L, "valid-api-key", "TestUser")));
+
+        assertTrue(apiKeyService.isValidApiKey("valid-api-key"));
+        verifyNoInteractions(valueOperations);
+    }
+
+    @Test
+    void isValidApiKey_RedisWriteFails_ShouldStillReturnTrue() {
+        when(userRepository.findByApiKey("valid-api-key")).thenReturn(Optional.of(new User(1L, "valid-api-key", "TestUser")));
+        doThrow(new RedisConnectionFailureException("Redis is down"))
+                .when(valueOperations).set(anyString(), anyString(), anyLong(), any(TimeUnit.class));
+
+        assertTrue(apiKeyService.isValidApiKey("valid-api-key"));
+    }
+
+    @Test
+    void registerUser_Committed_ShouldCacheKeyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            String apiKey = apiKeyService.registerUser("John Doe");
+
+            verify(userRepository).saveAndFlush(any(User.class));
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            verifyCached(apiKey);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void registerUser_RolledBack_ShouldNotCacheKey() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            apiKeyService.registerUser("John Doe");
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+            verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void registerUser_NameConstraintViolated_ShouldThrowDuplicateUser() {
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(integrityViolation(User.NAME_CONSTRAINT));
+
+        assertThrows(DuplicateUserException.class, () -> apiKeyService.registerUser("John Doe"));
+    }
+
+    @Test
+    void registerUser_OtherConstraintViolated_ShouldPropagate() {
+        DataIntegrityViolationException violation = integrityViolation("users_api_key_key");
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(violation);
+
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class, () -> apiKeyService.registerUser("John Doe")));
+    }
+
+    @Test
+    void registerUser_BlankName_ShouldThrowInvalidRegistration() {
+        assertSame(InvalidRegistrationException.INVALID_NAME, assertThrows(InvalidRegistrationException.class,
+                () -> apiKeyService.registerUser("  ")));
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void registerUsers_NullName_ShouldRejectBeforeInserting() {
+        List<String> names = Arrays.asList("Alice", null);
+
+        assertSame(InvalidRegistrationException.INVALID_NAME, assertThrows(InvalidRegistrationException.class,
+                () -> apiKeyService.registerUsers(names)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void registerUsers_TooManyNames_ShouldRejectBeforeInserting() {
+        List<String> names = Collections.nCopies(ApiKeyService.MAX_BULK_NAMES + 1, "Alice");
+
+        assertSame(InvalidRegistrationException.TOO_MANY_NAMES, assertThrows(InvalidRegistrationException.class,
+                () -> apiKeyService.registerUsers(names)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void registerUsers_ShouldReturnOnlyInsertedUsersAndCacheTheirKeys() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), eq(ApiKeyService.BATCH_SIZE), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1, 0, 1}});
+
+        Map<String, String> created = apiKeyService.registerUsers(List.of("Alice", "Existing", "Bob"));
+
+        assertEquals(List.of("Alice", "Bob"), List.copyOf(created.keySet()));
+        verifyCached(created.get("Alice"), created.get("Bob"));
+        verifyNoInteractions(userRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyCached(String... apiKeys) {
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+
+        RedisConnection connection = mock(RedisConnection.class);
+        RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+        when(connection.stringCommands()).thenReturn(stringCommands);
+        callback.getValue().doInRedis(connection);
+
+        long ttlSeconds = TimeUnit.MINUTES.toSeconds(ApiKeyService.API_KEY_CACHE_TTL_MINUTES);
+        for (String apiKey : apiKeys) {
+            verify(stringCommands).setEx(aryEq(("apiKey:" + apiKey).getBytes(StandardCharsets.UTF_8)), eq(ttlSeconds), any(byte[].class));
+        }
+        verifyNoMoreInteractions(stringCommands);
+    }
+
+    private static DataIntegrityViolationException integrityViolation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("duplicate key value", new SQLException(), constraintName));
+    }
+}